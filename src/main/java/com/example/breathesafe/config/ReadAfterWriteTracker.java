@@ -0,0 +1,83 @@
+package com.example.breathesafe.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which sessions have written recently so their reads can be kept on the
+ * primary until the replicas have had time to catch up.
+ *
+ * A session is identified by a key bound to the current thread for the duration of a
+ * request (the sender's phone number for the SMS webhook). Writes made on a thread with
+ * no bound key only pin the remainder of that same request.
+ */
+public class ReadAfterWriteTracker {
+
+    // Prune expired entries once the map grows past this size.
+    private static final int PRUNE_THRESHOLD = 10_000;
+
+    private final ThreadLocal<Session> currentSession = new ThreadLocal<>();
+    private final Map<String, Long> lastWriteByKey = new ConcurrentHashMap<>();
+    private final long windowMillis;
+
+    public ReadAfterWriteTracker(long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    // Binds a session key to the current thread; a null key still tracks writes within the request.
+    public void bind(String key) {
+        currentSession.set(new Session(key));
+    }
+
+    public void clear() {
+        currentSession.remove();
+    }
+
+    // Records a write for the current session.
+    public void markWritten() {
+        Session session = currentSession.get();
+        if (session == null) {
+            return;
+        }
+        session.wrote = true;
+        if (session.key != null) {
+            if (lastWriteByKey.size() > PRUNE_THRESHOLD) {
+                long now = System.currentTimeMillis();
+                lastWriteByKey.values().removeIf(writtenAt -> now - writtenAt >= windowMillis);
+            }
+            lastWriteByKey.put(session.key, System.currentTimeMillis());
+        }
+    }
+
+    // Returns true if reads for the current session must still go to the primary.
+    public boolean isPinnedToPrimary() {
+        Session session = currentSession.get();
+        if (session == null) {
+            return false;
+        }
+        if (session.wrote) {
+            return true;
+        }
+        if (session.key == null) {
+            return false;
+        }
+        Long writtenAt = lastWriteByKey.get(session.key);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.currentTimeMillis() - writtenAt < windowMillis) {
+            return true;
+        }
+        lastWriteByKey.remove(session.key, writtenAt);
+        return false;
+    }
+
+    private static final class Session {
+        private final String key;
+        private boolean wrote;
+
+        private Session(String key) {
+            this.key = key;
+        }
+    }
+}
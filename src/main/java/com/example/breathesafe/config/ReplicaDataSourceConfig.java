@@ -0,0 +1,147 @@
+package com.example.breathesafe.config;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Sends {@code @Transactional(readOnly = true)} service calls to read replicas.
+ * Only active when {@code breathesafe.datasource.replica.urls} is set; otherwise Spring Boot's
+ * single primary datasource is used as before.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "breathesafe.datasource.replica", name = "urls")
+public class ReplicaDataSourceConfig implements WebMvcConfigurer {
+
+    @Value("${breathesafe.datasource.replica.urls}")
+    private List<String> replicaUrls;
+
+    @Value("${breathesafe.datasource.replica.username:${spring.datasource.username:}}")
+    private String replicaUsername;
+
+    @Value("${breathesafe.datasource.replica.password:${spring.datasource.password:}}")
+    private String replicaPassword;
+
+    @Value("${breathesafe.datasource.replica.read-after-write-window-ms:5000}")
+    private long readAfterWriteWindowMillis;
+
+    @Value("${breathesafe.datasource.replica.unhealthy-cooldown-ms:30000}")
+    private long unhealthyCooldownMillis;
+
+    @Value("${breathesafe.datasource.replica.connect-timeout-ms:500}")
+    private long connectTimeoutMillis;
+
+    @Value("${breathesafe.datasource.replica.health-check-interval-ms:5000}")
+    private long healthCheckIntervalMillis;
+
+    @Bean
+    public ReadAfterWriteTracker readAfterWriteTracker() {
+        return new ReadAfterWriteTracker(readAfterWriteWindowMillis);
+    }
+
+    // A bean of its own so spring.datasource.hikari.* tuning, metrics and lifecycle still apply to the primary.
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+        return primary;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             DataSourceProperties properties,
+                                                             ReadAfterWriteTracker readAfterWriteTracker) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            replicas.add(createReplicaPool(properties.getDriverClassName(), url.trim(), replicaUsername,
+                    replicaPassword, "replica-" + replicas.size(), connectTimeoutMillis));
+        }
+
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, readAfterWriteTracker,
+                unhealthyCooldownMillis, healthCheckIntervalMillis);
+    }
+
+    static HikariDataSource createReplicaPool(String driverClassName, String url, String username,
+                                              String password, String poolName, long connectTimeoutMillis) {
+        HikariDataSource replica = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(driverClassName)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        replica.setPoolName(poolName);
+        replica.setReadOnly(true);
+        // A dead replica must fail fast so reads fall back well within the webhook's timeout;
+        // Hikari's 30 s default would stall every lookup until the first failure.
+        replica.setConnectionTimeout(connectTimeoutMillis);
+        replica.setValidationTimeout(Math.min(connectTimeoutMillis, replica.getValidationTimeout()));
+        // Don't block startup on a replica that is down; failover handles it at request time.
+        replica.setInitializationFailTimeout(-1);
+        return replica;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routing) {
+        // The proxy defers fetching the physical connection until the transaction's read-only flag is known.
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ReadAfterWriteSessionInterceptor(readAfterWriteTracker()));
+    }
+
+    // Binds the caller's identity as the read-after-write session key for the duration of a request.
+    private static class ReadAfterWriteSessionInterceptor implements HandlerInterceptor {
+
+        private final ReadAfterWriteTracker tracker;
+
+        ReadAfterWriteSessionInterceptor(ReadAfterWriteTracker tracker) {
+            this.tracker = tracker;
+        }
+
+        @Override
+        public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+            // SMS webhook callers are identified by phone number; REST callers by their principal.
+            String key = request.getParameter("From");
+            if (key == null) {
+                Principal principal = request.getUserPrincipal();
+                key = principal != null ? principal.getName() : null;
+            }
+            tracker.bind(key);
+            return true;
+        }
+
+        @Override
+        public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                    Object handler, Exception ex) {
+            tracker.clear();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.breathesafe.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routes connections for read-only transactions to a replica and everything else to the primary.
+ *
+ * The routing decision is made when the physical connection is requested, so this must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}; otherwise the connection
+ * would be fetched before the transaction's read-only flag is set.
+ *
+ * Replicas are picked round-robin. A replica that fails to hand out a connection is skipped for
+ * {@code unhealthyCooldownMillis} and the read falls through to the next replica, then the primary.
+ * When {@code healthCheckIntervalMillis} is positive, a background thread validates every replica on
+ * that interval, so failures are noticed and recoveries confirmed off the request threads.
+ * Reads from a session that wrote recently stay on the primary (see {@link ReadAfterWriteTracker}).
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final ReadAfterWriteTracker readAfterWriteTracker;
+    private final long unhealthyCooldownMillis;
+
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    // Per replica, the time (epoch millis) until which it is considered unhealthy.
+    private final AtomicLongArray unhealthyUntil;
+    private final ScheduledExecutorService healthChecker;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas,
+                                    ReadAfterWriteTracker readAfterWriteTracker, long unhealthyCooldownMillis,
+                                    long healthCheckIntervalMillis) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.readAfterWriteTracker = readAfterWriteTracker;
+        this.unhealthyCooldownMillis = unhealthyCooldownMillis;
+        this.unhealthyUntil = new AtomicLongArray(this.replicas.size());
+        if (healthCheckIntervalMillis > 0 && !this.replicas.isEmpty()) {
+            healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "replica-health-check");
+                thread.setDaemon(true);
+                return thread;
+            });
+            healthChecker.scheduleWithFixedDelay(this::checkReplicas,
+                    healthCheckIntervalMillis, healthCheckIntervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            healthChecker = null;
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            // Only transactional writes open a read-after-write window; non-transactional connections
+            // are metadata lookups and schema updates.
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                markWritten();
+            }
+            return primary.getConnection();
+        }
+        if (readAfterWriteTracker.isPinnedToPrimary()) {
+            return primary.getConnection();
+        }
+        Connection replicaConnection = getReplicaConnection();
+        return replicaConnection != null ? replicaConnection : primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        // Explicit credentials are only ever used for administrative access; keep it on the primary.
+        return primary.getConnection(username, password);
+    }
+
+    public boolean isReplicaHealthy(int index) {
+        return unhealthyUntil.get(index) <= System.currentTimeMillis();
+    }
+
+    // Validates each replica; healthy ones are put back in rotation, failing ones are skipped for another cooldown.
+    public void checkReplicas() {
+        for (int index = 0; index < replicas.size(); index++) {
+            try (Connection connection = replicas.get(index).getConnection()) {
+                if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    throw new SQLException("Connection failed validation");
+                }
+                if (!isReplicaHealthy(index)) {
+                    logger.info("Replica " + index + " recovered, routing reads to it again");
+                }
+                unhealthyUntil.set(index, 0);
+            } catch (SQLException e) {
+                markUnhealthy(index, e);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+        // The primary is owned by its caller; only the replica pools are closed here.
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private Connection getReplicaConnection() {
+        int count = replicas.size();
+        if (count == 0) {
+            return null;
+        }
+        int start = Math.floorMod(nextReplica.getAndIncrement(), count);
+        for (int i = 0; i < count; i++) {
+            int index = (start + i) % count;
+            if (!isReplicaHealthy(index)) {
+                continue;
+            }
+            try {
+                return replicas.get(index).getConnection();
+            } catch (SQLException e) {
+                markUnhealthy(index, e);
+            }
+        }
+        return null;
+    }
+
+    private void markUnhealthy(int index, SQLException cause) {
+        boolean wasHealthy = isReplicaHealthy(index);
+        unhealthyUntil.set(index, System.currentTimeMillis() + unhealthyCooldownMillis);
+        if (wasHealthy) {
+            logger.warn("Replica " + index + " unavailable, routing reads elsewhere for "
+                    + unhealthyCooldownMillis + " ms: " + cause.getMessage());
+        }
+    }
+
+    private void markWritten() {
+        readAfterWriteTracker.markWritten();
+        // Restart the read-after-write window once the write is actually visible on the primary.
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    readAfterWriteTracker.markWritten();
+                }
+            });
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.example.breathesafe.controllers;
 
 import java.util.Optional;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -10,6 +12,8 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.example.breathesafe.entities.Locker;
 import com.example.breathesafe.entities.User;
+import com.example.breathesafe.logging.LogMasking;
+import com.example.breathesafe.logging.SmsLogSampler;
 import com.example.breathesafe.services.LockerService;
 import com.example.breathesafe.services.SmsService;
 import com.example.breathesafe.services.UserService;
@@ -18,14 +22,19 @@ import com.example.breathesafe.services.UserService;
 @RequestMapping("/api")
 public class SmsWebhookController {
 
+    private static final Logger log = LoggerFactory.getLogger(SmsWebhookController.class);
+
     private final LockerService lockerService;
     private final SmsService smsService;
     private final UserService userService;
+    private final SmsLogSampler smsLogSampler;
 
-    public SmsWebhookController(LockerService lockerService, SmsService smsService, UserService userService) {
+    public SmsWebhookController(LockerService lockerService, SmsService smsService, UserService userService,
+                                SmsLogSampler smsLogSampler) {
         this.lockerService = lockerService;
         this.smsService = smsService;
         this.userService = userService;
+        this.smsLogSampler = smsLogSampler;
     }
 
     /**
@@ -44,13 +53,19 @@ public class SmsWebhookController {
     @PostMapping(value = "/sms-webhook", produces = MediaType.APPLICATION_XML_VALUE)
     public String receiveSms(@RequestParam("From") String from,
                              @RequestParam("Body") String body) {
-        System.out.println("Received SMS from: " + from);
-        System.out.println("Message body: " + body);
-
         String trimmed = body.trim();
         String[] parts = trimmed.split("\\s+");
         String command = parts[0].toUpperCase();
 
+        // Phone numbers and PINs are masked; free text (e.g. a name) is never logged.
+        if (log.isInfoEnabled() && smsLogSampler.shouldLog(command)) {
+            log.atInfo()
+                    .addKeyValue("from", LogMasking.maskPhoneNumber(from))
+                    .addKeyValue("command", LogMasking.commandForLog(command))
+                    .addKeyValue("body", LogMasking.maskMessageBody(parts))
+                    .log("Received SMS");
+        }
+
         // Look up a user by phone number.
         Optional<User> userOpt = userService.findByPhoneNumber(from);
 
@@ -0,0 +1,45 @@
+package com.example.breathesafe.logging;
+
+import java.util.Set;
+
+/**
+ * Helpers for keeping personal data out of the logs.
+ * Phone numbers keep their last four digits; SMS bodies are reduced to the command and
+ * its non-secret arguments, since free text may be a user's name and LOCK/UNLOCK carry a PIN.
+ */
+public final class LogMasking {
+
+    private static final String MASK = "****";
+    private static final Set<String> KNOWN_COMMANDS =
+            Set.of("START", "LOCK", "UNLOCK", "RELEASE", "LOCKER", "STOP", "UNSUBSCRIBE");
+
+    private LogMasking() { }
+
+    public static String maskPhoneNumber(String phoneNumber) {
+        if (phoneNumber == null) {
+            return null;
+        }
+        int length = phoneNumber.length();
+        return length <= 4 ? MASK : MASK + phoneNumber.substring(length - 4);
+    }
+
+    // Returns the command name if recognized, otherwise "OTHER" (e.g. a name sent during registration).
+    public static String commandForLog(String command) {
+        return KNOWN_COMMANDS.contains(command) ? command : "OTHER";
+    }
+
+    public static String maskMessageBody(String[] parts) {
+        String command = commandForLog(parts[0].toUpperCase());
+        if (command.equals("OTHER")) {
+            return "[redacted]";
+        }
+        StringBuilder masked = new StringBuilder(command);
+        for (int i = 1; i < parts.length; i++) {
+            masked.append(' ');
+            // Locker numbers are safe to show; everything else may be a PIN.
+            boolean lockerNumber = command.equals("RELEASE") && parts[i].chars().allMatch(Character::isDigit);
+            masked.append(lockerNumber ? parts[i] : MASK);
+        }
+        return masked.toString();
+    }
+}
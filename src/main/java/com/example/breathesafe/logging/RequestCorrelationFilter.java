@@ -0,0 +1,58 @@
+package com.example.breathesafe.logging;
+
+import java.io.IOException;
+import java.util.UUID;
+
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Tags every log line written while handling a request with a correlation id.
+ * Uses the caller's {@code X-Request-Id} if present, then Twilio's {@code MessageSid},
+ * otherwise a generated id. The id is echoed back in the {@code X-Request-Id} response header.
+ */
+@Component
+@Order(RequestCorrelationFilter.ORDER)
+public class RequestCorrelationFilter extends OncePerRequestFilter {
+
+    // After Boot's character encoding filter (HIGHEST_PRECEDENCE): reading MessageSid parses the form
+    // body, which must happen only once UTF-8 is set or From/Body would be decoded as ISO-8859-1.
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 10;
+
+    public static final String HEADER = "X-Request-Id";
+    public static final String MDC_KEY = "correlationId";
+
+    // Caller-supplied ids are truncated so a hostile header can't bloat every log line.
+    private static final int MAX_LENGTH = 64;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain)
+            throws ServletException, IOException {
+        String correlationId = request.getHeader(HEADER);
+        if (correlationId == null || correlationId.isBlank()) {
+            correlationId = request.getParameter("MessageSid");
+        }
+        if (correlationId == null || correlationId.isBlank()) {
+            correlationId = UUID.randomUUID().toString();
+        } else if (correlationId.length() > MAX_LENGTH) {
+            correlationId = correlationId.substring(0, MAX_LENGTH);
+        }
+        MDC.put(MDC_KEY, correlationId);
+        response.setHeader(HEADER, correlationId);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.breathesafe.logging;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Decides whether a received SMS should be logged.
+ * High-volume commands listed in {@code breathesafe.logging.sms.sampled-commands} are logged at
+ * {@code breathesafe.logging.sms.sample-rate}; all other commands are always logged.
+ */
+@Component
+public class SmsLogSampler {
+
+    private final Set<String> sampledCommands;
+    private final double sampleRate;
+
+    public SmsLogSampler(@Value("${breathesafe.logging.sms.sampled-commands:}") List<String> sampledCommands,
+                         @Value("${breathesafe.logging.sms.sample-rate:1.0}") double sampleRate) {
+        if (!(sampleRate >= 0.0 && sampleRate <= 1.0)) {
+            throw new IllegalArgumentException(
+                    "breathesafe.logging.sms.sample-rate must be between 0 and 1, was " + sampleRate);
+        }
+        this.sampledCommands = sampledCommands.stream()
+                .map(String::trim)
+                .filter(command -> !command.isEmpty())
+                .map(String::toUpperCase)
+                .collect(Collectors.toUnmodifiableSet());
+        this.sampleRate = sampleRate;
+    }
+
+    public boolean shouldLog(String command) {
+        if (!sampledCommands.contains(command)) {
+            return true;
+        }
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+}
@@ -4,6 +4,7 @@ import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.breathesafe.entities.Locker;
 import com.example.breathesafe.entities.User;
@@ -19,6 +20,7 @@ public class LockerService {
     @Autowired
     private UserRepository userRepository;
 
+    @Transactional
     public Locker assignLocker(Long lockerId, Long userId) {
         Locker locker = lockerRepository.findById(lockerId)
                 .orElseThrow(() -> new RuntimeException("Locker not found with ID: " + lockerId));
@@ -32,6 +34,7 @@ public class LockerService {
     
     // New method for auto-assigning a locker to a new user.
     // If no locker is free, it throws an exception.
+    @Transactional
     public Locker assignLockerToNewUser(User user) {
         Optional<Locker> freeLockerOpt = lockerRepository.findFirstByAssignedUserIsNull();
         if (freeLockerOpt.isEmpty()) {
@@ -43,6 +46,7 @@ public class LockerService {
         return lockerRepository.save(locker);
     }
 
+    @Transactional
     public Locker unlockLocker(Long lockerId, Long userId) {
         Locker locker = lockerRepository.findById(lockerId)
                 .orElseThrow(() -> new RuntimeException("Locker not found with ID: " + lockerId));
@@ -55,6 +59,7 @@ public class LockerService {
         return lockerRepository.save(locker);
     }
     
+    @Transactional
     public Locker lockLocker(Long lockerId, Long userId) {
         Locker locker = lockerRepository.findById(lockerId)
                 .orElseThrow(() -> new RuntimeException("Locker not found with ID: " + lockerId));
@@ -66,11 +71,13 @@ public class LockerService {
     }
     
     // Returns the locker assigned to a user.
+    @Transactional(readOnly = true)
     public Optional<Locker> getLockerForUser(Long userId) {
         return lockerRepository.findByAssignedUserId(userId);
     }
     
     // Unassigns the locker from a user.
+    @Transactional
     public void unassignLockerFromUser(User user) {
         Optional<Locker> lockerOpt = lockerRepository.findByAssignedUserId(user.getId());
         if (lockerOpt.isPresent()) {
@@ -1,8 +1,11 @@
 package com.example.breathesafe.services;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.example.breathesafe.logging.LogMasking;
 import com.twilio.Twilio;
 import com.twilio.exception.ApiException;
 import com.twilio.rest.api.v2010.account.Message;
@@ -13,6 +16,8 @@ import jakarta.annotation.PostConstruct;
 @Service
 public class SmsService {
 
+    private static final Logger log = LoggerFactory.getLogger(SmsService.class);
+
     @Value("${twilio.accountSid}")
     private String accountSid;
 
@@ -37,7 +42,7 @@ public class SmsService {
         } catch (ApiException e) {
             if (e.getMessage().toLowerCase().contains("unsubscribed")) {
                 // Log the issue and continue without throwing an exception
-                System.err.println("Attempted to send SMS to unsubscribed recipient: " + to);
+                log.warn("Attempted to send SMS to unsubscribed recipient: {}", LogMasking.maskPhoneNumber(to));
             } else {
                 throw e;
             }
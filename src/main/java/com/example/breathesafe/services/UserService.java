@@ -5,6 +5,7 @@ import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.bcrypt.BCrypt;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.breathesafe.entities.User;
 import com.example.breathesafe.repositories.UserRepository;
@@ -15,6 +16,7 @@ public class UserService {
     @Autowired
     private UserRepository userRepository;
 
+    @Transactional
     public User createUser(User userRequest) {
         // Hash the PIN if provided; if not, leave it as an empty string.
         if (userRequest.getHashedPin() != null && !userRequest.getHashedPin().isEmpty()) {
@@ -24,16 +26,19 @@ public class UserService {
         return userRepository.save(userRequest);
     }
 
+    @Transactional(readOnly = true)
     public User getUserById(Long id) {
         return userRepository.findById(id).orElseThrow(() ->
             new RuntimeException("User not found with ID: " + id)
         );
     }
 
+    @Transactional(readOnly = true)
     public Optional<User> findByPhoneNumber(String phoneNumber) {
         return userRepository.findByPhoneNumber(phoneNumber);
     }
     
+    @Transactional
     public void updateUserPin(User user, String rawPin) {
         String hashedPin = BCrypt.hashpw(rawPin, BCrypt.gensalt());
         user.setHashedPin(hashedPin);
@@ -47,16 +52,19 @@ public class UserService {
         return BCrypt.checkpw(rawPin, user.getHashedPin());
     }
     
+    @Transactional
     public void updateUserName(User user, String name) {
         user.setName(name);
         userRepository.save(user);
     }
     
+    @Transactional
     public void clearUserPin(User user) {
         user.setHashedPin(null);
         userRepository.save(user);
     }
     
+    @Transactional
     public void deleteUser(User user) {
         userRepository.delete(user);
     }
@@ -0,0 +1,160 @@
+package com.example.breathesafe.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Exercises routing against two embedded H2 databases, each tagged with its own name,
+ * through both plain JDBC transactions and the JPA/Hibernate path the services use.
+ */
+class ReplicaRoutingDataSourceTests {
+
+    private DataSource primary;
+    private DataSource replica;
+    private ReadAfterWriteTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        primary = embeddedDatabase("primary");
+        replica = embeddedDatabase("replica");
+        tracker = new ReadAfterWriteTracker(60_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracker.clear();
+        new JdbcTemplate(primary).execute("SHUTDOWN");
+        new JdbcTemplate(replica).execute("SHUTDOWN");
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplica() {
+        DataSource dataSource = routing(List.of(replica));
+        tracker.bind("+15550001111");
+
+        assertEquals("replica", databaseName(dataSource, true));
+        assertEquals("primary", databaseName(dataSource, false));
+    }
+
+    @Test
+    void readsAfterWriteStayOnPrimaryForSameSession() {
+        DataSource dataSource = routing(List.of(replica));
+        tracker.bind("+15550001111");
+        databaseName(dataSource, false);
+        tracker.clear();
+
+        // A later request from the same sender still reads its own write.
+        tracker.bind("+15550001111");
+        assertEquals("primary", databaseName(dataSource, true));
+        tracker.clear();
+
+        // Other senders are unaffected.
+        tracker.bind("+15550002222");
+        assertEquals("replica", databaseName(dataSource, true));
+    }
+
+    @Test
+    void unhealthyReplicaFallsBackToPrimary() {
+        DataSource missing = new DriverManagerDataSource("jdbc:h2:mem:missing;IFEXISTS=TRUE", "sa", "");
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(missing), tracker, 60_000, 0);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        tracker.bind("+15550001111");
+
+        assertEquals("primary", databaseName(dataSource, true));
+        assertFalse(routing.isReplicaHealthy(0));
+    }
+
+    @Test
+    void deadReplicaPoolFallsBackWithinConnectTimeout() throws Exception {
+        HikariDataSource missing = ReplicaDataSourceConfig.createReplicaPool(
+                null, "jdbc:h2:mem:missing;IFEXISTS=TRUE", "sa", "", "replica-missing", 250);
+        try (ReplicaRoutingDataSource routing =
+                     new ReplicaRoutingDataSource(primary, List.of(missing), tracker, 60_000, 0)) {
+            DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+            long start = System.nanoTime();
+            assertEquals("primary", databaseName(dataSource, true));
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            assertTrue(elapsedMillis < 2_000, "fallback took " + elapsedMillis + " ms");
+            assertFalse(routing.isReplicaHealthy(0));
+        }
+    }
+
+    @Test
+    void jpaReadOnlyTransactionsGoToReplica() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(
+                        DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class))
+                .withUserConfiguration(ReplicaDataSourceConfig.class)
+                .withPropertyValues(
+                        "spring.datasource.url=jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.hikari.maximum-pool-size=3",
+                        "spring.jpa.hibernate.ddl-auto=none",
+                        "breathesafe.datasource.replica.urls=jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1",
+                        "breathesafe.datasource.replica.health-check-interval-ms=0")
+                .run(context -> {
+                    assertEquals(3, context.getBean(HikariDataSource.class).getMaximumPoolSize());
+
+                    PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+                    EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(
+                            context.getBean(EntityManagerFactory.class));
+
+                    assertEquals("replica", jpaDatabaseName(transactionManager, entityManager, true));
+                    assertEquals("primary", jpaDatabaseName(transactionManager, entityManager, false));
+                });
+    }
+
+    private DataSource routing(List<DataSource> replicas) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replicas, tracker, 60_000, 0));
+    }
+
+    private static String databaseName(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        template.setReadOnly(readOnly);
+        return template.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("SELECT name FROM db_name", String.class));
+    }
+
+    private static String jpaDatabaseName(PlatformTransactionManager transactionManager,
+                                          EntityManager entityManager, boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status ->
+                (String) entityManager.createNativeQuery("SELECT name FROM db_name").getSingleResult());
+    }
+
+    private static DataSource embeddedDatabase(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE db_name (name VARCHAR(16))");
+        jdbc.update("INSERT INTO db_name VALUES (?)", name);
+        return dataSource;
+    }
+}
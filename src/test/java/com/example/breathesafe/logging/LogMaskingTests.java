@@ -0,0 +1,32 @@
+package com.example.breathesafe.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class LogMaskingTests {
+
+    @Test
+    void phoneNumberKeepsLastFourDigits() {
+        assertEquals("****1234", LogMasking.maskPhoneNumber("+15550001234"));
+        assertEquals("****", LogMasking.maskPhoneNumber("123"));
+    }
+
+    @Test
+    void pinsAreMasked() {
+        assertEquals("LOCK ****", LogMasking.maskMessageBody("lock 4821".split("\\s+")));
+        assertEquals("UNLOCK ****", LogMasking.maskMessageBody("UNLOCK 4821".split("\\s+")));
+    }
+
+    @Test
+    void lockerNumbersAreKeptButOtherReleaseArgumentsAreMasked() {
+        assertEquals("RELEASE 12", LogMasking.maskMessageBody("RELEASE 12".split("\\s+")));
+        assertEquals("RELEASE ****", LogMasking.maskMessageBody("RELEASE 4821abc".split("\\s+")));
+    }
+
+    @Test
+    void freeTextIsRedacted() {
+        assertEquals("[redacted]", LogMasking.maskMessageBody("Jane Doe".split("\\s+")));
+        assertEquals("OTHER", LogMasking.commandForLog("JANE"));
+    }
+}
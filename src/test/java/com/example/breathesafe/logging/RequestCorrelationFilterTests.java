@@ -0,0 +1,79 @@
+package com.example.breathesafe.logging;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.boot.web.servlet.filter.OrderedCharacterEncodingFilter;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.http.HttpServlet;
+
+class RequestCorrelationFilterTests {
+
+    private final RequestCorrelationFilter filter = new RequestCorrelationFilter();
+
+    @Test
+    void requestIdHeaderTakesPrecedenceOverMessageSid() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/sms-webhook");
+        request.addHeader(RequestCorrelationFilter.HEADER, "req-1");
+        request.addParameter("MessageSid", "SM123");
+
+        assertEquals("req-1", correlationIdSeenBy(request));
+    }
+
+    @Test
+    void messageSidIsUsedWithoutRequestIdHeader() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/sms-webhook");
+        request.addParameter("MessageSid", "SM123");
+
+        assertEquals("SM123", correlationIdSeenBy(request));
+    }
+
+    @Test
+    void idIsGeneratedWhenNoneIsSupplied() throws Exception {
+        String correlationId = correlationIdSeenBy(new MockHttpServletRequest("POST", "/api/sms-webhook"));
+
+        assertDoesNotThrow(() -> UUID.fromString(correlationId));
+    }
+
+    @Test
+    void suppliedIdIsTruncatedTo64Characters() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/sms-webhook");
+        request.addHeader(RequestCorrelationFilter.HEADER, "x".repeat(100));
+
+        assertEquals("x".repeat(64), correlationIdSeenBy(request));
+    }
+
+    @Test
+    void mdcEntryIsRemovedAfterRequestAndIdIsEchoed() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/sms-webhook");
+        request.addHeader(RequestCorrelationFilter.HEADER, "req-1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertNull(MDC.get(RequestCorrelationFilter.MDC_KEY));
+        assertEquals("req-1", response.getHeader(RequestCorrelationFilter.HEADER));
+    }
+
+    @Test
+    void runsAfterCharacterEncodingFilter() {
+        assertTrue(RequestCorrelationFilter.ORDER > new OrderedCharacterEncodingFilter().getOrder());
+    }
+
+    private String correlationIdSeenBy(MockHttpServletRequest request) throws Exception {
+        String[] seen = new String[1];
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() { },
+                (req, res, next) -> seen[0] = MDC.get(RequestCorrelationFilter.MDC_KEY));
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        return seen[0];
+    }
+}
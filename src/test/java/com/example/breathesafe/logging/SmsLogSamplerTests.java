@@ -0,0 +1,41 @@
+package com.example.breathesafe.logging;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class SmsLogSamplerTests {
+
+    @Test
+    void commandsNotSampledAreAlwaysLogged() {
+        SmsLogSampler sampler = new SmsLogSampler(List.of("LOCKER"), 0.0);
+
+        assertTrue(sampler.shouldLog("LOCK"));
+        assertTrue(sampler.shouldLog("OTHER"));
+    }
+
+    @Test
+    void zeroRateSuppressesSampledCommands() {
+        SmsLogSampler sampler = new SmsLogSampler(List.of("LOCKER"), 0.0);
+
+        assertFalse(sampler.shouldLog("LOCKER"));
+    }
+
+    @Test
+    void configuredCommandsAreNormalisedToUpperCase() {
+        SmsLogSampler sampler = new SmsLogSampler(List.of(" locker ", ""), 0.0);
+
+        assertFalse(sampler.shouldLog("LOCKER"));
+    }
+
+    @Test
+    void sampleRateOutsideZeroToOneIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new SmsLogSampler(List.of(), -0.1));
+        assertThrows(IllegalArgumentException.class, () -> new SmsLogSampler(List.of(), 1.5));
+        assertThrows(IllegalArgumentException.class, () -> new SmsLogSampler(List.of(), Double.NaN));
+    }
+}